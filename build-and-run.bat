@@ -24,7 +24,12 @@ echo.
 if exist "example.sql" (
     if exist "config.toml" (
         echo Exécution avec les fichiers d'exemple...
-        java -jar target/sql-executor-1.0-snapshot.jar example.sql config.toml
+        rem Lancement rapide : archive AppCDS générée par mvn package (JDK 13+) et JIT C1 seul
+        if exist "target\sql-executor-1.0-snapshot.jsa" (
+            java -XX:SharedArchiveFile=target/sql-executor-1.0-snapshot.jsa -XX:TieredStopAtLevel=1 -jar target/sql-executor-1.0-snapshot.jar example.sql config.toml
+        ) else (
+            java -XX:TieredStopAtLevel=1 -jar target/sql-executor-1.0-snapshot.jar example.sql config.toml
+        )
     ) else (
         echo Fichier config.toml manquant. Créez-le d'abord.
     )
@@ -12,25 +12,53 @@ import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tomlj.TomlParseResult;
 
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.TimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+
 public class AthenaSqlExecutor {
+    static final String DRY_RUN_OPTION = "--dry-run";
+    static final String TIME_TO_QUERIES_READY_MARKER = "time-to-queries-ready";
+    private static final long MAIN_STARTED_NANOS = System.nanoTime();
+
     static void enableSSLDebugUsingSystemProperties() {
-        System.setProperty("javax.net.debug", "ssl");
+        // Une valeur passée explicitement en ligne de commande (-Djavax.net.debug=...) reste prioritaire
+        if (System.getProperty("javax.net.debug") == null) {
+            System.setProperty("javax.net.debug", "ssl");
+        }
+    }
+    // Logback n'est initialisé qu'au premier message, pas au chargement de la classe
+    private static final class LoggerHolder {
+        static final Logger LOGGER = LoggerFactory.getLogger(AthenaSqlExecutor.class);
+    }
+    
+    private static Logger logger() {
+        return LoggerHolder.LOGGER;
     }
-    private static final Logger logger = LoggerFactory.getLogger(AthenaSqlExecutor.class);
     
     public static void main(String[] args) {
-        enableSSLDebugUsingSystemProperties();
+        boolean loggingApplied = false;
         try {
-            validateArguments(args);
+            boolean dryRun = isDryRun(args);
+            String[] positionalArgs = positionalArguments(args);
+            validateArguments(positionalArgs);
             
-            String sqlFilePath = args[0];
-            String configFilePath = args[1];
+            String sqlFilePath = positionalArgs[0];
+            String configFilePath = positionalArgs[1];
             
             // Validation des fichiers d'entrée
             validateInputFiles(sqlFilePath, configFilePath);
@@ -40,16 +68,24 @@ public class AthenaSqlExecutor {
             
             // Application des configurations SSL et Logging
             applyConfigurations(config);
+            loggingApplied = true;
             
             // Exécution des requêtes
-            executeQueries(sqlFilePath, config);
+            if (dryRun) {
+                dryRunQueries(sqlFilePath);
+            } else {
+                executeQueries(sqlFilePath, config);
+            }
             
         } catch (IllegalArgumentException e) {
-            logger.error("Erreur de validation: {}", e.getMessage());
+            applyDefaultLoggingIfNeeded(loggingApplied);
+            logger().error("Erreur de validation: {}", e.getMessage());
+            flushLogs();
             printUsage();
             System.exit(1);
         } catch (Exception e) {
-            logger.error("Erreur fatale lors de l'exécution: {}", e.getMessage(), e);
+            applyDefaultLoggingIfNeeded(loggingApplied);
+            logger().error("Erreur fatale lors de l'exécution: {}", e.getMessage(), e);
             System.exit(2);
         }
     }
@@ -61,13 +97,47 @@ public class AthenaSqlExecutor {
         // Application de la configuration Logging
         config.getLoggingConfig().applyLoggingSettings();
         
-        logger.info("Configurations appliquées avec succès");
+        logger().info("Configurations appliquées avec succès");
+    }
+    
+    private static void flushLogs() {
+        // Arrête Logback, ce qui vide les appenders asynchrones : l'erreur s'affiche avant l'aide
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (loggerFactory instanceof LoggerContext) {
+            ((LoggerContext) loggerFactory).stop();
+        }
     }
     
-    private static void validateArguments(String[] args) {
+    private static void applyDefaultLoggingIfNeeded(boolean loggingApplied) {
+        // logback.xml n'écrit que sur la console : une erreur survenue avant l'application
+        // de la section [logging] doit tout de même atteindre le fichier de log par défaut
+        if (!loggingApplied) {
+            LoggingConfig.defaults().applyLoggingSettings();
+        }
+    }
+    
+    static long millisSinceStart() {
+        // Horloge monotone depuis le chargement de la classe : évite de charger JMX (java.management)
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - MAIN_STARTED_NANOS);
+    }
+    
+    static boolean isDryRun(String[] args) {
+        return args.length > 0 && DRY_RUN_OPTION.equals(args[0]);
+    }
+    
+    static String[] positionalArguments(String[] args) {
+        return isDryRun(args) ? Arrays.copyOfRange(args, 1, args.length) : args;
+    }
+    
+    static void validateArguments(String[] args) {
         if (args.length != 2) {
             throw new IllegalArgumentException("Nombre d'arguments incorrect");
         }
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Option inconnue ou mal placée: " + arg);
+            }
+        }
     }
     
     private static void validateInputFiles(String sqlFilePath, String configFilePath) {
@@ -89,7 +159,7 @@ public class AthenaSqlExecutor {
     }
     
     private static AthenaConfig loadConfiguration(String configFilePath) throws Exception {
-        logger.info("Chargement de la configuration depuis: {}", configFilePath);
+        logger().info("Chargement de la configuration depuis: {}", configFilePath);
         
         TomlParseResult config = org.tomlj.Toml.parse(Paths.get(configFilePath));
         
@@ -101,34 +171,55 @@ public class AthenaSqlExecutor {
     }
     
     private static void executeQueries(String sqlFilePath, AthenaConfig config) {
-        logger.info("Connexion à Athena avec la configuration: {}", config.getConnectionInfo());
-        
-        try (Connection conn = createConnection(config);
-             Statement stmt = conn.createStatement()) {
-            
+        try {
             List<String> queries = readQueriesFromFile(sqlFilePath);
-            logger.info("{} requêtes trouvées dans le fichier", queries.size());
+            logger().info("{} requêtes trouvées dans le fichier", queries.size());
             
-            for (int i = 0; i < queries.size(); i++) {
-                String query = queries.get(i).trim();
-                if (!query.isEmpty()) {
-                    logger.info("Exécution de la requête {}/{}: {}", i + 1, queries.size(), 
-                               query.length() > 100 ? query.substring(0, 100) + "..." : query);
-                    executeQuery(stmt, query, i + 1);
+            logger().info("Connexion à Athena avec la configuration: {}", config.getConnectionInfo());
+            
+            try (Connection conn = createConnection(config);
+                 Statement stmt = conn.createStatement()) {
+                
+                logger().info("Connexion établie et Statement créé {} ms après le démarrage de main", millisSinceStart());
+                for (int i = 0; i < queries.size(); i++) {
+                    String query = queries.get(i).trim();
+                    if (!query.isEmpty()) {
+                        logger().info("Exécution de la requête {}/{}: {}", i + 1, queries.size(), 
+                                   query.length() > 100 ? query.substring(0, 100) + "..." : query);
+                        executeQuery(stmt, query, i + 1);
+                    }
                 }
+                
+                logger().info("Toutes les requêtes ont été exécutées avec succès");
             }
             
-            logger.info("Toutes les requêtes ont été exécutées avec succès");
-            
         } catch (SQLException e) {
-            logger.error("Erreur SQL lors de l'exécution: {}", e.getMessage(), e);
+            logger().error("Erreur SQL lors de l'exécution: {}", e.getMessage(), e);
             throw new RuntimeException("Erreur lors de l'exécution des requêtes", e);
         } catch (Exception e) {
-            logger.error("Erreur inattendue: {}", e.getMessage(), e);
+            logger().error("Erreur inattendue: {}", e.getMessage(), e);
             throw new RuntimeException("Erreur inattendue", e);
         }
     }
     
+    private static void dryRunQueries(String sqlFilePath) throws IOException {
+        logger().info("Mode --dry-run: aucune connexion à Athena ne sera ouverte");
+        
+        List<String> queries = readQueriesFromFile(sqlFilePath);
+        logger().info("{} requêtes trouvées dans le fichier", queries.size());
+        
+        // Le driver est chargé comme lors de la connexion (DriverManager et ServiceLoader),
+        // pour que l'entraînement AppCDS couvre ses classes
+        DriverManager.getDrivers();
+        for (int i = 0; i < queries.size(); i++) {
+            logger().debug("Requête {}/{}: {}", i + 1, queries.size(), queries.get(i));
+        }
+        
+        // Ligne stable lue par StartupBenchmark, qui mesure le temps écoulé avec sa propre horloge
+        // depuis le lancement du processus : JVM, configuration, driver et requêtes prêts, sans connexion
+        System.out.println(TIME_TO_QUERIES_READY_MARKER);
+    }
+    
     private static Connection createConnection(AthenaConfig config) throws SQLException {
         Properties connectionProps = new Properties();
         StringBuilder url = new StringBuilder();
@@ -149,21 +240,19 @@ public class AthenaSqlExecutor {
         
         // Configuration SSL basée sur la configuration
         // if (!config.getSslConfig().isEnabled()) {
-        //     logger.warn("SSL désactivé - connexion non sécurisée");
+        //     logger().warn("SSL désactivé - connexion non sécurisée");
         //     url.append(";UseSSL=false");
         // } else {
         //     url.append(";UseSSL=true");
         //     if (config.getSslConfig().isDisableCertChecking()) {
         //         url.append(";VerifyServerCertificate=false");
-        //         logger.warn("Vérification des certificats SSL désactivée");
+        //         logger().warn("Vérification des certificats SSL désactivée");
         //     }
         // }
         
-        logger.debug("URL de connexion: {}", url.toString());        // Class.forName("com.simba.athena.jdbc.Driver");
-        System.setProperty("com.amazonaws.sdk.disableCertChecking", "true");
-        System.setProperty("javax.net.debug", "true");
-        System.out.println(System.getProperty("javax.net.ssl.trustStore"));
-        logger.info("Tentative de connexion à Athena avec SSL: {}", !config.getSslConfig().disableCertChecking);
+        logger().debug("URL de connexion: {}", url.toString());        // Class.forName("com.simba.athena.jdbc.Driver");
+        logger().debug("Trust store: {}", System.getProperty("javax.net.ssl.trustStore"));
+        logger().info("Tentative de connexion à Athena avec SSL: {}", !config.getSslConfig().disableCertChecking);
            
         return DriverManager.getConnection(url.toString(), connectionProps);
     }
@@ -172,19 +261,19 @@ public class AthenaSqlExecutor {
         try {
             boolean hasResults = stmt.execute(query);
             if (hasResults) {
-                logger.info("Requête {} exécutée avec succès (avec résultats)", queryNumber);
+                logger().info("Requête {} exécutée avec succès (avec résultats)", queryNumber);
             } else {
                 int updateCount = stmt.getUpdateCount();
-                logger.info("Requête {} exécutée avec succès ({} lignes affectées)", queryNumber, updateCount);
+                logger().info("Requête {} exécutée avec succès ({} lignes affectées)", queryNumber, updateCount);
             }
         } catch (SQLException e) {
-            logger.error("Erreur lors de l'exécution de la requête {}: {}", queryNumber, e.getMessage());
+            logger().error("Erreur lors de l'exécution de la requête {}: {}", queryNumber, e.getMessage());
             throw new RuntimeException("Échec de l'exécution de la requête " + queryNumber, e);
         }
     }
     
     private static List<String> readQueriesFromFile(String filePath) throws IOException {
-        logger.debug("Lecture du fichier SQL: {}", filePath);
+        logger().debug("Lecture du fichier SQL: {}", filePath);
         
         try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath))) {
             StringBuilder sb = new StringBuilder();
@@ -222,9 +311,10 @@ public class AthenaSqlExecutor {
     }
     
     private static void printUsage() {
-        System.out.println("Usage: java -jar athena-sql-executor.jar <sql-file> <config-file.toml>");
+        System.out.println("Usage: java -jar athena-sql-executor.jar [--dry-run] <sql-file> <config-file.toml>");
         System.out.println();
         System.out.println("Arguments:");
+        System.out.println("  --dry-run       : Charge la configuration et les requêtes sans se connecter à Athena");
         System.out.println("  sql-file        : Chemin vers le fichier SQL contenant les requêtes");
         System.out.println("  config-file.toml: Chemin vers le fichier de configuration TOML");
         System.out.println();
@@ -241,6 +331,8 @@ public class AthenaSqlExecutor {
         System.out.println("[ssl]");
         System.out.println("# Désactiver la vérification des certificats (DÉCONSEILLÉ)");
         System.out.println("disable_cert_checking = false");
+        System.out.println("# Trace de la négociation SSL (javax.net.debug=ssl)");
+        System.out.println("debug = false");
         System.out.println();
         System.out.println("[logging]");
         System.out.println("level = \"INFO\"  # DEBUG, INFO, WARN, ERROR");
@@ -323,9 +415,11 @@ public class AthenaSqlExecutor {
     // Configuration SSL
     public static class SslConfig {
         private final boolean disableCertChecking;
+        private final boolean debug;
         
         public SslConfig(TomlParseResult config) {
             this.disableCertChecking = getOptionalBoolean(config, "ssl.disable_cert_checking", false);
+            this.debug = getOptionalBoolean(config, "ssl.debug", false);
         }
         
         private boolean getOptionalBoolean(TomlParseResult config, String key, boolean defaultValue) {
@@ -334,10 +428,15 @@ public class AthenaSqlExecutor {
         }
         
         public boolean isDisableCertChecking() { return disableCertChecking; }
+        public boolean isDebug() { return debug; }
         
         public void applySslSettings() {
+            if (debug) {
+                logger().info("Trace SSL activée (javax.net.debug)");
+                enableSSLDebugUsingSystemProperties();
+            }
             if (disableCertChecking) {
-                logger.warn("ATTENTION: Vérification des certificats SSL désactivée - RISQUE DE SÉCURITÉ!");
+                logger().warn("ATTENTION: Vérification des certificats SSL désactivée - RISQUE DE SÉCURITÉ!");
                 System.setProperty("com.amazonaws.sdk.disableCertChecking", "true");
             } else {
                 // Réactivation de la vérification SSL (par défaut)
@@ -358,6 +457,10 @@ public class AthenaSqlExecutor {
             this.logFile = getOptionalString(config, "logging.log_file", "logs/athena-executor.log");
         }
         
+        static LoggingConfig defaults() {
+            return new LoggingConfig(org.tomlj.Toml.parse(""));
+        }
+        
         private String getOptionalString(TomlParseResult config, String key, String defaultValue) {
             String value = config.getString(key);
             return value != null ? value : defaultValue;
@@ -373,29 +476,66 @@ public class AthenaSqlExecutor {
         public String getLogFile() { return logFile; }
         
         public void applyLoggingSettings() {
-            // Configuration des propriétés système pour Logback
-            System.setProperty("LOG_LEVEL", level);
-            System.setProperty("FILE_LOGGING", String.valueOf(fileLogging));
-            System.setProperty("LOG_FILE", logFile);
+            ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+            if (!(loggerFactory instanceof LoggerContext)) {
+                return;
+            }
+            LoggerContext context = (LoggerContext) loggerFactory;
             
-            // Utilisation du fichier de configuration dynamique
-            System.setProperty("logback.configurationFile", "src/main/resources/logback-dynamic.xml");
+            // Ajustement de la configuration chargée depuis logback.xml, sans la relire
+            Level logLevel = Level.toLevel(level, Level.INFO);
+            context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(logLevel);
+            context.getLogger("fr.hshc.athena").setLevel(logLevel);
             
-            // Création du dossier de logs si nécessaire
             if (fileLogging) {
+                // Création du dossier de logs si nécessaire
                 try {
                     Path logDir = Paths.get(logFile).getParent();
                     if (logDir != null && !Files.exists(logDir)) {
                         Files.createDirectories(logDir);
-                        System.out.println("Dossier de logs créé: " + logDir);
                     }
                 } catch (IOException e) {
                     System.err.println("Impossible de créer le dossier de logs: " + e.getMessage());
                 }
+                // L'appender fichier n'est construit que lorsqu'il est demandé
+                context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(createFileAppender(context));
             }
             
-            System.out.println("Configuration logging appliquée: level=" + level + 
-                             ", fileLogging=" + fileLogging + ", logFile=" + logFile);
+            logger().debug("Configuration logging appliquée: level={}, fileLogging={}, logFile={}",
+                         level, fileLogging, logFile);
+        }
+        
+        private Appender<ILoggingEvent> createFileAppender(LoggerContext context) {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+            encoder.start();
+            
+            // Rotation quotidienne, 30 jours de rétention, 1 Go au total
+            RollingFileAppender<ILoggingEvent> fileAppender = new RollingFileAppender<>();
+            fileAppender.setContext(context);
+            fileAppender.setName("FILE");
+            fileAppender.setFile(logFile);
+            fileAppender.setEncoder(encoder);
+            
+            TimeBasedRollingPolicy<ILoggingEvent> rollingPolicy = new TimeBasedRollingPolicy<>();
+            rollingPolicy.setContext(context);
+            rollingPolicy.setParent(fileAppender);
+            rollingPolicy.setFileNamePattern(logFile + ".%d{yyyy-MM-dd}");
+            rollingPolicy.setMaxHistory(30);
+            rollingPolicy.setTotalSizeCap(FileSize.valueOf("1GB"));
+            rollingPolicy.start();
+            fileAppender.setRollingPolicy(rollingPolicy);
+            fileAppender.start();
+            
+            // Écriture asynchrone, comme pour la console dans logback.xml
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC_FILE");
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            return asyncAppender;
         }
     }
     
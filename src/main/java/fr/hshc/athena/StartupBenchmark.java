@@ -0,0 +1,148 @@
+package fr.hshc.athena;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure le temps de démarrage de l'exécuteur : lance plusieurs fois le jar en mode
+ * {@code --dry-run} et relève le temps jusqu'à ce que la configuration, le driver JDBC et les
+ * requêtes soient prêts. La connexion à Athena et la création du {@code Statement} ne sont pas
+ * incluses (elles sont journalisées lors d'une exécution réelle).
+ *
+ * <pre>
+ * java -cp target/sql-executor-1.0-snapshot.jar fr.hshc.athena.StartupBenchmark \
+ *      target/sql-executor-1.0-snapshot.jar example.sql config.toml [runs] [budget-ms]
+ * </pre>
+ *
+ * Codes de sortie : 1 si la médiane dépasse le budget (1000 ms par défaut), 2 pour une erreur
+ * d'arguments, 3 si un lancement en {@code --dry-run} échoue.
+ */
+public class StartupBenchmark {
+    static final int EXIT_BUDGET_EXCEEDED = 1;
+    static final int EXIT_USAGE = 2;
+    static final int EXIT_RUN_FAILED = 3;
+
+    private static final int DEFAULT_RUNS = 10;
+    private static final long DEFAULT_BUDGET_MS = 1000;
+
+    public static void main(String[] args) throws Exception {
+        int runs;
+        long budgetMs;
+        try {
+            if (args.length < 3 || args.length > 5) {
+                throw new IllegalArgumentException("Nombre d'arguments incorrect");
+            }
+            runs = args.length > 3 ? parsePositive(args[3], "runs") : DEFAULT_RUNS;
+            budgetMs = args.length > 4 ? parsePositive(args[4], "budget-ms") : DEFAULT_BUDGET_MS;
+        } catch (IllegalArgumentException e) {
+            System.out.println("Erreur: " + e.getMessage());
+            System.out.println("Usage: StartupBenchmark <jar> <sql-file> <config-file.toml> [runs] [budget-ms]");
+            System.exit(EXIT_USAGE);
+            return;
+        }
+
+        List<String> command = buildCommand(Paths.get(args[0]), args[1], args[2]);
+        System.out.println("Commande: " + String.join(" ", command));
+
+        List<Long> timesToQueriesReady = new ArrayList<>();
+        List<Long> wallTimes = new ArrayList<>();
+        try {
+            // Premier lancement ignoré : il paie le cache disque et la création éventuelle des logs
+            runOnce(command);
+
+            for (int i = 0; i < runs; i++) {
+                long[] result = runOnce(command);
+                timesToQueriesReady.add(result[0]);
+                wallTimes.add(result[1]);
+            }
+        } catch (IllegalStateException | IOException e) {
+            System.out.println("Erreur: " + e.getMessage());
+            System.exit(EXIT_RUN_FAILED);
+            return;
+        }
+
+        long median = median(timesToQueriesReady);
+        System.out.printf("time-to-queries-ready (sans connexion): min=%d ms, médiane=%d ms, max=%d ms (%d lancements)%n",
+                Collections.min(timesToQueriesReady), median, Collections.max(timesToQueriesReady), runs);
+        System.out.printf("durée totale du processus: médiane=%d ms%n", median(wallTimes));
+
+        if (median > budgetMs) {
+            System.out.printf("Budget de démarrage dépassé: %d ms > %d ms%n", median, budgetMs);
+            System.exit(EXIT_BUDGET_EXCEEDED);
+        }
+    }
+
+    static int parsePositive(String value, String name) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " doit être un entier: " + value);
+        }
+        if (parsed <= 0) {
+            throw new IllegalArgumentException(name + " doit être strictement positif: " + value);
+        }
+        return parsed;
+    }
+
+    static List<String> buildCommand(Path jar, String sqlFile, String configFile) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+
+        // Archive AppCDS produite par "mvn package" (profil appcds), à côté du jar
+        String jarName = jar.getFileName().toString();
+        Path archive = jar.resolveSibling(jarName.replaceAll("\\.jar$", "") + ".jsa");
+        if (Files.exists(archive)) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command.add("-XX:TieredStopAtLevel=1");
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add(AthenaSqlExecutor.DRY_RUN_OPTION);
+        command.add(sqlFile);
+        command.add(configFile);
+        return command;
+    }
+
+    private static long[] runOnce(List<String> command) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+        // Mesuré depuis le lancement du processus : inclut la création de la JVM
+        long timeToQueriesReady = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(AthenaSqlExecutor.TIME_TO_QUERIES_READY_MARKER)) {
+                    timeToQueriesReady = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        long wallTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        if (exitCode != 0 || timeToQueriesReady < 0) {
+            throw new IllegalStateException("Le lancement en --dry-run a échoué (code " + exitCode + ")");
+        }
+        return new long[] { timeToQueriesReady, wallTime };
+    }
+
+    static long median(List<Long> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Aucune mesure");
+        }
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
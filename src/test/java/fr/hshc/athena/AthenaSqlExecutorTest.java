@@ -1,5 +1,7 @@
 package fr.hshc.athena;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -11,6 +13,34 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class AthenaSqlExecutorTest {
 
+    private static final String SSL_DEBUG = "javax.net.debug";
+    private static final String DISABLE_CERT_CHECKING = "com.amazonaws.sdk.disableCertChecking";
+
+    private String savedSslDebug;
+    private String savedDisableCertChecking;
+
+    @BeforeEach
+    void saveSystemProperties() {
+        savedSslDebug = System.getProperty(SSL_DEBUG);
+        savedDisableCertChecking = System.getProperty(DISABLE_CERT_CHECKING);
+        System.clearProperty(SSL_DEBUG);
+        System.clearProperty(DISABLE_CERT_CHECKING);
+    }
+
+    @AfterEach
+    void restoreSystemProperties() {
+        restoreProperty(SSL_DEBUG, savedSslDebug);
+        restoreProperty(DISABLE_CERT_CHECKING, savedDisableCertChecking);
+    }
+
+    private static void restoreProperty(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+
     @Test
     void testSqlParsing() throws IOException {
         // Créer un fichier SQL de test
@@ -75,6 +105,76 @@ class AthenaSqlExecutorTest {
         });
     }
     
+    @Test
+    void testSslDebugDisabledByDefault() {
+        AthenaSqlExecutor.SslConfig sslConfig = new AthenaSqlExecutor.SslConfig(org.tomlj.Toml.parse(""));
+        
+        sslConfig.applySslSettings();
+        
+        assertNull(System.getProperty(SSL_DEBUG), "La trace SSL ne doit pas être activée par défaut");
+        assertEquals("false", System.getProperty(DISABLE_CERT_CHECKING));
+    }
+    
+    @Test
+    void testSslDebugEnabledFromConfiguration() {
+        AthenaSqlExecutor.SslConfig sslConfig =
+            new AthenaSqlExecutor.SslConfig(org.tomlj.Toml.parse("[ssl]\ndebug = true\n"));
+        
+        sslConfig.applySslSettings();
+        
+        assertEquals("ssl", System.getProperty(SSL_DEBUG));
+    }
+    
+    @Test
+    void testExplicitSslDebugPropertyIsKept() {
+        System.setProperty(SSL_DEBUG, "all");
+        
+        AthenaSqlExecutor.enableSSLDebugUsingSystemProperties();
+        assertEquals("all", System.getProperty(SSL_DEBUG));
+        
+        new AthenaSqlExecutor.SslConfig(org.tomlj.Toml.parse("[ssl]\ndebug = true\n")).applySslSettings();
+        assertEquals("all", System.getProperty(SSL_DEBUG));
+    }
+    
+    @Test
+    void testDryRunArguments() {
+        String[] args = {"--dry-run", "queries.sql", "config.toml"};
+        
+        assertTrue(AthenaSqlExecutor.isDryRun(args));
+        assertArrayEquals(new String[] {"queries.sql", "config.toml"}, AthenaSqlExecutor.positionalArguments(args));
+        assertDoesNotThrow(() -> AthenaSqlExecutor.validateArguments(AthenaSqlExecutor.positionalArguments(args)));
+        
+        String[] normalArgs = {"queries.sql", "config.toml"};
+        assertFalse(AthenaSqlExecutor.isDryRun(normalArgs));
+        assertArrayEquals(normalArgs, AthenaSqlExecutor.positionalArguments(normalArgs));
+    }
+    
+    @Test
+    void testDryRunWithMissingArguments() {
+        String[] onlyOption = {"--dry-run"};
+        String[] oneFile = {"--dry-run", "queries.sql"};
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> AthenaSqlExecutor.validateArguments(AthenaSqlExecutor.positionalArguments(onlyOption)));
+        assertThrows(IllegalArgumentException.class,
+            () -> AthenaSqlExecutor.validateArguments(AthenaSqlExecutor.positionalArguments(oneFile)));
+    }
+    
+    @Test
+    void testMisplacedDryRunOption() {
+        String[] optionLast = {"queries.sql", "--dry-run"};
+        String[] optionInMiddle = {"queries.sql", "--dry-run", "config.toml"};
+        
+        assertFalse(AthenaSqlExecutor.isDryRun(optionLast));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> AthenaSqlExecutor.validateArguments(AthenaSqlExecutor.positionalArguments(optionLast)));
+        assertTrue(e.getMessage().contains("--dry-run"));
+        
+        assertFalse(AthenaSqlExecutor.isDryRun(optionInMiddle));
+        assertThrows(IllegalArgumentException.class,
+            () -> AthenaSqlExecutor.validateArguments(AthenaSqlExecutor.positionalArguments(optionInMiddle)));
+    }
+    
     // Méthodes de test statiques pour accéder aux méthodes privées
     public static List<String> parseSqlQueries(String content) {
         return AthenaSqlExecutor.parseSqlQueries(content);
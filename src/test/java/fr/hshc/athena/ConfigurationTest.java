@@ -1,8 +1,17 @@
 package fr.hshc.athena;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.tomlj.TomlParseResult;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ConfigurationTest {
@@ -24,6 +33,30 @@ class ConfigurationTest {
         AthenaSqlExecutor.AthenaConfig athenaConfig = new AthenaSqlExecutor.AthenaConfig(config);
         
         assertFalse(athenaConfig.getSslConfig().isDisableCertChecking());
+        assertFalse(athenaConfig.getSslConfig().isDebug());
+    }
+    
+    @Test
+    void testSslDebugEnabled() {
+        // Test avec trace SSL demandée explicitement
+        String configContent = 
+            "region = \"eu-west-3\"\n" +
+            "output_location = \"s3://bucket/results\"\n" +
+            "workgroup = \"primary\"\n" +
+            "database = \"default\"\n" +
+            "\n" +
+            "[auth]\n" +
+            "mode = \"aws_profile\"\n" +
+            "profile = \"test-profile\"\n" +
+            "\n" +
+            "[ssl]\n" +
+            "debug = true\n";
+        
+        TomlParseResult config = org.tomlj.Toml.parse(configContent);
+        AthenaSqlExecutor.AthenaConfig athenaConfig = new AthenaSqlExecutor.AthenaConfig(config);
+        
+        assertTrue(athenaConfig.getSslConfig().isDebug());
+        assertFalse(athenaConfig.getSslConfig().isDisableCertChecking());
     }
     
     @Test
@@ -136,4 +169,35 @@ class ConfigurationTest {
         assertTrue(athenaConfig.getLoggingConfig().isFileLogging());
         assertEquals("logs/test.log", athenaConfig.getLoggingConfig().getLogFile());
     }
+
+    @Test
+    void testFileLoggingAddsAsyncFileAppender(@TempDir Path dir) {
+        Path logFile = dir.resolve("logs").resolve("test.log");
+        String configContent = 
+            "[logging]\n" +
+            "level = \"WARN\"\n" +
+            "file_logging = true\n" +
+            "log_file = \"" + logFile.toString().replace('\\', '/') + "\"\n";
+        
+        AthenaSqlExecutor.LoggingConfig loggingConfig =
+            new AthenaSqlExecutor.LoggingConfig(org.tomlj.Toml.parse(configContent));
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        
+        try {
+            loggingConfig.applyLoggingSettings();
+            
+            assertNotNull(root.getAppender("ASYNC_FILE"), "L'appender fichier asynchrone doit être ajouté");
+            assertNotNull(root.getAppender("ASYNC_CONSOLE"), "La configuration de logback.xml doit être conservée");
+            assertEquals(Level.WARN, root.getLevel());
+            assertTrue(Files.exists(logFile.getParent()));
+        } finally {
+            if (root.getAppender("ASYNC_FILE") != null) {
+                root.getAppender("ASYNC_FILE").stop();
+                root.detachAppender("ASYNC_FILE");
+            }
+            root.setLevel(Level.INFO);
+            context.getLogger("fr.hshc.athena").setLevel(Level.INFO);
+        }
+    }
 }
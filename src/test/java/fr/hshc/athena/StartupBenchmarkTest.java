@@ -0,0 +1,56 @@
+package fr.hshc.athena;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupBenchmarkTest {
+
+    @Test
+    void testMedian() {
+        assertEquals(3L, StartupBenchmark.median(Arrays.asList(5L, 1L, 3L)));
+        assertEquals(30L, StartupBenchmark.median(Arrays.asList(40L, 10L, 30L, 20L)));
+        assertEquals(7L, StartupBenchmark.median(Collections.singletonList(7L)));
+        
+        assertThrows(IllegalArgumentException.class, () -> StartupBenchmark.median(Collections.emptyList()));
+    }
+    
+    @Test
+    void testParsePositive() {
+        assertEquals(5, StartupBenchmark.parsePositive("5", "runs"));
+        
+        assertThrows(IllegalArgumentException.class, () -> StartupBenchmark.parsePositive("0", "runs"));
+        assertThrows(IllegalArgumentException.class, () -> StartupBenchmark.parsePositive("-3", "runs"));
+        assertThrows(IllegalArgumentException.class, () -> StartupBenchmark.parsePositive("abc", "budget-ms"));
+    }
+    
+    @Test
+    void testBuildCommandWithoutArchive(@TempDir Path dir) throws IOException {
+        Path jar = Files.createFile(dir.resolve("sql-executor-1.0-snapshot.jar"));
+        
+        List<String> command = StartupBenchmark.buildCommand(jar, "queries.sql", "config.toml");
+        
+        assertTrue(command.stream().noneMatch(arg -> arg.startsWith("-XX:SharedArchiveFile=")));
+        assertEquals(Arrays.asList("-jar", jar.toString(), "--dry-run", "queries.sql", "config.toml"),
+                     command.subList(command.size() - 5, command.size()));
+    }
+    
+    @Test
+    void testBuildCommandUsesArchiveNextToJar(@TempDir Path dir) throws IOException {
+        Path jar = Files.createFile(dir.resolve("sql-executor-1.0-snapshot.jar"));
+        Path archive = Files.createFile(dir.resolve("sql-executor-1.0-snapshot.jsa"));
+        
+        List<String> command = StartupBenchmark.buildCommand(jar, "queries.sql", "config.toml");
+        
+        assertTrue(command.contains("-XX:SharedArchiveFile=" + archive));
+        assertTrue(command.indexOf("-XX:SharedArchiveFile=" + archive) < command.indexOf("-jar"));
+    }
+}